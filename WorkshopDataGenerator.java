@@ -0,0 +1,275 @@
+package com.tallercarpro.appTaller.testdata;
+
+import com.tallercarpro.appTaller.model.*;
+import com.tallercarpro.appTaller.repository.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de datos de taller para benchmarks, pruebas de carga y profiling local.
+ * <p>
+ * Cada cliente (con sus vehículos, reparaciones y facturas) se genera con un generador aleatorio
+ * derivado solo de la semilla y del índice del cliente, así que la salida no depende del tamaño de
+ * bloque: con la misma semilla, el cliente {@code c} es siempre el mismo. Los datos se generan y
+ * guardan por bloques de clientes, así que nunca hay más de un bloque en memoria.
+ */
+public class WorkshopDataGenerator {
+
+    private static final String[] BRANDS = {"Toyota", "Nissan", "Chevrolet", "Hyundai", "Kia", "Mazda", "Renault", "Ford", "Honda", "Volkswagen"};
+    // Distribución sesgada de marcas: las primeras concentran la mayor parte del parque
+    private static final int[] BRAND_WEIGHTS = {24, 18, 14, 10, 9, 8, 6, 5, 4, 2};
+    private static final String[][] MODELS = {
+            {"Corolla", "Hilux", "Yaris"}, {"Sentra", "Versa", "Frontier"}, {"Spark", "Aveo", "Tracker"},
+            {"Accent", "Tucson", "i10"}, {"Rio", "Picanto", "Sportage"}, {"Mazda 3", "CX-5", "Mazda 2"},
+            {"Logan", "Duster", "Sandero"}, {"Ranger", "Fiesta", "Escape"}, {"Civic", "CR-V", "City"},
+            {"Gol", "Jetta", "Tiguan"}};
+    // Más facturación a fin de año y a mitad de año (vacaciones), menos en enero y febrero
+    private static final int[] MONTH_WEIGHTS = {5, 6, 8, 8, 9, 11, 10, 8, 8, 8, 9, 12};
+    private static final String[] STATUSES = {"COMPLETED", "IN_PROGRESS", "PENDING"};
+    // Solo la última reparación de un vehículo, si empezó al final del rango, puede seguir abierta
+    private static final int[] STATUS_WEIGHTS = {85, 10, 5};
+    private static final int OPEN_WINDOW_DAYS = 30;
+    private static final int DEFAULT_MAX_REPAIR_HOURS = 72;
+    // Las placas (tres letras y cuatro dígitos sobre cliente * 10 + vehículo) solo son únicas hasta aquí
+    public static final int MAX_CLIENTS = 10000 * 26 * 26 * 26 / 10;
+    private static final String[] REPAIRS = {"Cambio de aceite", "Pastillas de freno", "Alineación y balanceo",
+            "Cambio de embrague", "Revisión general", "Diagnóstico eléctrico", "Cambio de correa de distribución"};
+    private static final String[] PARTS = {"Filtro de Aceite", "Pastillas de freno", "Bujías", "Correa de distribución",
+            "Filtro de aire", "Batería", "Amortiguador"};
+    private static final String[] FIRST_NAMES = {"Juan", "María", "Pedro", "Ana", "Luis", "Carmen", "José", "Laura", "Carlos", "Sofía"};
+    private static final String[] LAST_NAMES = {"Pérez", "Gómez", "Rodríguez", "López", "Martínez", "García", "Sánchez", "Ramírez"};
+
+    private final long seed;
+    private final int mechanicCount;
+    private final int maxVehiclesPerClient;
+    private final int maxRepairsPerVehicle;
+    private final int startYear;
+    private final int years;
+    private final int maxRepairHours;
+    private final LocalDateTime horizon;
+
+    public WorkshopDataGenerator(long seed, int mechanicCount, int maxVehiclesPerClient,
+                                 int maxRepairsPerVehicle, int startYear, int years) {
+        this(seed, mechanicCount, maxVehiclesPerClient, maxRepairsPerVehicle, startYear, years, DEFAULT_MAX_REPAIR_HOURS);
+    }
+
+    /**
+     * @param maxRepairHours duración máxima de una reparación; el fin (y la factura) se recorta al
+     *                       último segundo del rango de años si la duración lo haría salir de él
+     */
+    public WorkshopDataGenerator(long seed, int mechanicCount, int maxVehiclesPerClient,
+                                 int maxRepairsPerVehicle, int startYear, int years, int maxRepairHours) {
+        if (mechanicCount <= 0 || maxVehiclesPerClient <= 0 || maxRepairsPerVehicle <= 0 || years <= 0
+                || maxRepairHours <= 0) {
+            throw new IllegalArgumentException("Generator sizes must be positive");
+        }
+        if (maxVehiclesPerClient > 10) {
+            throw new IllegalArgumentException("At most 10 vehicles per client keep license plates unique");
+        }
+        this.seed = seed;
+        this.mechanicCount = mechanicCount;
+        this.maxVehiclesPerClient = maxVehiclesPerClient;
+        this.maxRepairsPerVehicle = maxRepairsPerVehicle;
+        this.startYear = startYear;
+        this.years = years;
+        this.maxRepairHours = maxRepairHours;
+        this.horizon = LocalDateTime.of(startYear + years - 1, 12, 31, 23, 59, 59);
+    }
+
+    /**
+     * Registros generados para un bloque de clientes, ya enlazados entre sí en ambos sentidos
+     * (vehículo → reparaciones → factura → líneas y sus referencias inversas).
+     */
+    public static class Chunk {
+        public final List<Client> clients = new ArrayList<>();
+        public final List<Vehicle> vehicles = new ArrayList<>();
+        public final List<Repair> repairs = new ArrayList<>();
+        public final List<Invoice> invoices = new ArrayList<>();
+        public final List<InvoiceItem> invoiceItems = new ArrayList<>();
+    }
+
+    public List<Mechanic> generateMechanics() {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Mechanic> mechanics = new ArrayList<>(mechanicCount);
+        for (int i = 0; i < mechanicCount; i++) {
+            String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES) + " " + (i + 1);
+            mechanics.add(new Mechanic(null, name, "password", "ROLE_MECHANIC", "active"));
+        }
+        return mechanics;
+    }
+
+    /**
+     * Genera el bloque de clientes {@code [firstClient, firstClient + size)}. Como cada cliente tiene
+     * su propia semilla, los bloques se pueden regenerar de forma independiente o en paralelo.
+     */
+    public Chunk generateChunk(int firstClient, int size, List<Mechanic> mechanics) {
+        if (firstClient < 0 || size < 0 || (long) firstClient + size > MAX_CLIENTS) {
+            throw new IllegalArgumentException("Clients must stay within [0, " + MAX_CLIENTS + ") to keep license plates unique");
+        }
+        Chunk chunk = new Chunk();
+        for (int c = firstClient; c < firstClient + size; c++) {
+            SplittableRandom random = new SplittableRandom(mix(seed, c));
+            Client client = new Client(null, pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                    "cliente" + c + "@example.com", String.format("3%09d", c));
+            chunk.clients.add(client);
+
+            int vehicles = 1 + random.nextInt(maxVehiclesPerClient);
+            for (int v = 0; v < vehicles; v++) {
+                // Las fechas de servicio se eligen antes que el vehículo para que el año del modelo
+                // nunca sea posterior a su primera reparación
+                LocalDateTime[] starts = new LocalDateTime[random.nextInt(maxRepairsPerVehicle + 1)];
+                int firstServiceYear = startYear + years - 1;
+                for (int r = 0; r < starts.length; r++) {
+                    starts[r] = seasonalDate(random);
+                    firstServiceYear = Math.min(firstServiceYear, starts[r].getYear());
+                }
+                Arrays.sort(starts);
+                int brand = weighted(random, BRAND_WEIGHTS);
+                Vehicle vehicle = new Vehicle(null, plate(c, v), BRANDS[brand], pick(random, MODELS[brand]),
+                        Math.min(2000 + random.nextInt(25), firstServiceYear), client);
+                chunk.vehicles.add(vehicle);
+
+                List<Repair> repairs = new ArrayList<>(starts.length);
+                for (int r = 0; r < starts.length; r++) {
+                    boolean mayBeOpen = r == starts.length - 1 && !starts[r].isBefore(horizon.minusDays(OPEN_WINDOW_DAYS));
+                    repairs.add(addRepair(random, chunk, client, vehicle, mechanics, starts[r], mayBeOpen,
+                            "INV-" + c + "-" + v + "-" + r));
+                }
+                vehicle.setRepairs(repairs);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Genera y guarda {@code clientCount} clientes por bloques usando {@code saveAll}, en orden de
+     * dependencias. Cada bloque se escribe en una sola transacción, así que un fallo a mitad de bloque
+     * no deja clientes o vehículos guardados sin sus reparaciones y facturas.
+     * <p>
+     * La carga pasa por JPA entidad a entidad, no por JDBC {@code batchUpdate}. Los INSERT solo se
+     * agrupan si {@code spring.jpa.properties.hibernate.jdbc.batch_size} está configurado y los ids no
+     * usan {@code IDENTITY}. El tiempo de carga no se ha medido todavía y depende de esa configuración.
+     */
+    public void load(int clientCount, int chunkSize, TransactionTemplate transactionTemplate,
+                     MechanicRepository mechanicRepository, ClientRepository clientRepository,
+                     VehicleRepository vehicleRepository, RepairRepository repairRepository,
+                     InvoiceRepository invoiceRepository, InvoiceItemRepository invoiceItemRepository) {
+        if (clientCount < 0) {
+            throw new IllegalArgumentException("Client count must not be negative");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (clientCount > MAX_CLIENTS) {
+            throw new IllegalArgumentException("At most " + MAX_CLIENTS + " clients keep license plates unique");
+        }
+        List<Mechanic> mechanics = transactionTemplate.execute(status -> mechanicRepository.saveAll(generateMechanics()));
+        for (int first = 0; first < clientCount; first += chunkSize) {
+            Chunk chunk = generateChunk(first, Math.min(chunkSize, clientCount - first), mechanics);
+            transactionTemplate.executeWithoutResult(status -> {
+                clientRepository.saveAll(chunk.clients);
+                vehicleRepository.saveAll(chunk.vehicles);
+                repairRepository.saveAll(chunk.repairs);
+                invoiceRepository.saveAll(chunk.invoices);
+                invoiceItemRepository.saveAll(chunk.invoiceItems);
+            });
+        }
+    }
+
+    private Repair addRepair(SplittableRandom random, Chunk chunk, Client client, Vehicle vehicle,
+                             List<Mechanic> mechanics, LocalDateTime start, boolean mayBeOpen, String invoiceNumber) {
+        Mechanic mechanic = mechanics.get(random.nextInt(mechanics.size()));
+        String status = mayBeOpen ? STATUSES[weighted(random, STATUS_WEIGHTS)] : "COMPLETED";
+        BigDecimal laborCost = money(random, 30, 400);
+        if (!"COMPLETED".equals(status)) {
+            // Reparación abierta: sin fecha de fin ni factura todavía
+            Repair open = new Repair(null, vehicle, mechanic, pick(random, REPAIRS), start, null, laborCost, status);
+            chunk.repairs.add(open);
+            return open;
+        }
+        // El fin (y la factura) nunca sale del rango de años configurado
+        LocalDateTime end = start.plusHours(1 + random.nextInt(maxRepairHours));
+        if (end.isAfter(horizon)) {
+            end = horizon;
+        }
+        Repair repair = new Repair(null, vehicle, mechanic, pick(random, REPAIRS), start, end, laborCost, status);
+        chunk.repairs.add(repair);
+
+        Invoice invoice = new Invoice(null, invoiceNumber, repair, client, mechanic, end, BigDecimal.ZERO);
+        List<InvoiceItem> items = new ArrayList<>();
+        items.add(new InvoiceItem(null, invoice, "Mano de obra", "LABOR", laborCost, 1, laborCost));
+        // Número de repuestos variable, con cola larga: la mayoría de facturas tiene pocos
+        int parts = 0;
+        while (parts < 8 && random.nextInt(100) < 55) {
+            parts++;
+        }
+        BigDecimal total = laborCost;
+        for (int p = 0; p < parts; p++) {
+            BigDecimal unitPrice = money(random, 5, 600);
+            int quantity = 1 + random.nextInt(4);
+            BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            items.add(new InvoiceItem(null, invoice, pick(random, PARTS), "PART", unitPrice, quantity, subtotal));
+            total = total.add(subtotal);
+        }
+        invoice.setTotalAmount(total);
+        invoice.setInvoiceItems(items);
+        repair.setInvoice(invoice);
+        chunk.invoices.add(invoice);
+        chunk.invoiceItems.addAll(items);
+        return repair;
+    }
+
+    private LocalDateTime seasonalDate(SplittableRandom random) {
+        int month = weighted(random, MONTH_WEIGHTS) + 1;
+        return LocalDateTime.of(startYear + random.nextInt(years), month, 1 + random.nextInt(28),
+                7 + random.nextInt(11), random.nextInt(60));
+    }
+
+    private static long mix(long seed, int client) {
+        // Finalizador de SplitMix64 sobre (semilla, índice) para que clientes vecinos no compartan secuencia
+        long z = seed + 0x9E3779B97F4A7C15L * (client + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String plate(int client, int vehicle) {
+        // Placa única por (cliente, vehículo): tres letras derivadas del cliente y cuatro dígitos
+        int n = client * 10 + vehicle;
+        char a = (char) ('A' + (n / 10000) % 26);
+        char b = (char) ('A' + (n / 260000) % 26);
+        char c = (char) ('A' + (n / 6760000) % 26);
+        return "" + a + b + c + "-" + String.format("%04d", n % 10000);
+    }
+
+    private static BigDecimal money(SplittableRandom random, int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100)).movePointLeft(2)
+                .setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,287 @@
+package com.tallercarpro.appTaller.testdata;
+
+import com.tallercarpro.appTaller.model.*;
+import com.tallercarpro.appTaller.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkshopDataGeneratorTest {
+
+    @Mock
+    private MechanicRepository mechanicRepository;
+    @Mock
+    private ClientRepository clientRepository;
+    @Mock
+    private VehicleRepository vehicleRepository;
+    @Mock
+    private RepairRepository repairRepository;
+    @Mock
+    private InvoiceRepository invoiceRepository;
+    @Mock
+    private InvoiceItemRepository invoiceItemRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WorkshopDataGenerator generator;
+    private List<Mechanic> mechanics;
+
+    @BeforeEach
+    void setUp() {
+        generator = new WorkshopDataGenerator(42L, 5, 3, 4, 2022, 3);
+        mechanics = generator.generateMechanics();
+    }
+
+    @Test
+    void generateChunk_shouldBeDeterministicForSameSeed() {
+        // Given
+        WorkshopDataGenerator sameSeed = new WorkshopDataGenerator(42L, 5, 3, 4, 2022, 3);
+        WorkshopDataGenerator otherSeed = new WorkshopDataGenerator(43L, 5, 3, 4, 2022, 3);
+
+        // When
+        List<String> first = fingerprint(generator.generateChunk(0, 50, mechanics));
+        List<String> second = fingerprint(sameSeed.generateChunk(0, 50, sameSeed.generateMechanics()));
+        List<String> other = fingerprint(otherSeed.generateChunk(0, 50, otherSeed.generateMechanics()));
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @Test
+    void generateChunk_shouldNotDependOnChunkSize() {
+        // Given
+        List<String> expected = fingerprint(generator.generateChunk(0, 60, mechanics));
+
+        // When
+        WorkshopDataGenerator.Chunk merged = generator.generateChunk(0, 25, mechanics);
+        WorkshopDataGenerator.Chunk rest = generator.generateChunk(25, 35, mechanics);
+        merged.clients.addAll(rest.clients);
+        merged.vehicles.addAll(rest.vehicles);
+        merged.repairs.addAll(rest.repairs);
+        merged.invoices.addAll(rest.invoices);
+        merged.invoiceItems.addAll(rest.invoiceItems);
+        List<String> actual = fingerprint(merged);
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void generateChunk_shouldProduceUniqueKeysAcrossChunks() {
+        // Given
+        Set<String> plates = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> invoiceNumbers = new HashSet<>();
+        int vehicles = 0;
+        int invoices = 0;
+
+        // When
+        for (int first = 0; first < 300; first += 100) {
+            WorkshopDataGenerator.Chunk chunk = generator.generateChunk(first, 100, mechanics);
+            chunk.clients.forEach(c -> emails.add(c.getEmail()));
+            chunk.vehicles.forEach(v -> plates.add(v.getLicensePlate()));
+            chunk.invoices.forEach(i -> invoiceNumbers.add(i.getInvoiceNumber()));
+            vehicles += chunk.vehicles.size();
+            invoices += chunk.invoices.size();
+        }
+
+        // Then
+        assertThat(emails).hasSize(300);
+        assertThat(plates).hasSize(vehicles);
+        assertThat(invoiceNumbers).hasSize(invoices);
+    }
+
+    @Test
+    void generateChunk_shouldKeepReferencesInsideChunk() {
+        // When
+        WorkshopDataGenerator.Chunk chunk = generator.generateChunk(0, 100, mechanics);
+
+        // Then
+        assertThat(chunk.invoiceItems).allSatisfy(item -> assertThat(chunk.invoices).containsOnlyOnce(item.getInvoice()));
+        assertThat(chunk.invoices).allSatisfy(invoice -> {
+            assertThat(chunk.repairs).containsOnlyOnce(invoice.getRepair());
+            assertThat(chunk.clients).containsOnlyOnce(invoice.getClient());
+            assertThat(mechanics).contains(invoice.getMechanic());
+        });
+        assertThat(chunk.repairs).allSatisfy(repair -> {
+            assertThat(chunk.vehicles).containsOnlyOnce(repair.getVehicle());
+            assertThat(mechanics).contains(repair.getMechanic());
+        });
+        assertThat(chunk.vehicles).allSatisfy(vehicle -> assertThat(chunk.clients).containsOnlyOnce(vehicle.getClient()));
+        // Referencias inversas que recorre getVehicleRepairInvoiceDetails
+        assertThat(chunk.invoices).allSatisfy(invoice -> assertThat(invoice.getRepair().getInvoice()).isSameAs(invoice));
+        assertThat(chunk.repairs).allSatisfy(repair -> assertThat(repair.getVehicle().getRepairs()).containsOnlyOnce(repair));
+        assertThat(chunk.vehicles.stream().mapToInt(v -> v.getRepairs().size()).sum()).isEqualTo(chunk.repairs.size());
+    }
+
+    @Test
+    void generateChunk_shouldMatchInvoiceTotalsToItemSubtotals() {
+        // When
+        WorkshopDataGenerator.Chunk chunk = generator.generateChunk(0, 100, mechanics);
+
+        // Then
+        assertThat(chunk.invoices).isNotEmpty().allSatisfy(invoice -> {
+            BigDecimal sum = invoice.getInvoiceItems().stream()
+                    .map(InvoiceItem::getSubtotal)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(invoice.getTotalAmount()).isEqualByComparingTo(sum);
+        });
+    }
+
+    @Test
+    void generateChunk_shouldProduceRealisticDatesAndStatuses() {
+        // When
+        WorkshopDataGenerator.Chunk chunk = generator.generateChunk(0, 1000, mechanics);
+
+        // Then
+        assertThat(chunk.repairs).extracting(Repair::getStatus)
+                .contains("COMPLETED", "IN_PROGRESS", "PENDING");
+        // Solo las reparaciones completadas se facturan
+        assertThat(chunk.invoices).hasSize((int) chunk.repairs.stream()
+                .filter(r -> "COMPLETED".equals(r.getStatus())).count());
+        assertThat(chunk.invoices).allSatisfy(invoice ->
+                assertThat(invoice.getRepair().getVehicle().getYear()).isLessThanOrEqualTo(invoice.getIssueDate().getYear()));
+    }
+
+    @Test
+    void generateChunk_shouldOnlyLeaveRecentLatestRepairsOpen() {
+        // Given
+        LocalDateTime windowStart = LocalDateTime.of(2024, 12, 31, 23, 59, 59).minusDays(30);
+
+        // When
+        WorkshopDataGenerator.Chunk chunk = generator.generateChunk(0, 1000, mechanics);
+
+        // Then
+        assertThat(chunk.vehicles).allSatisfy(vehicle -> {
+            List<Repair> repairs = vehicle.getRepairs();
+            for (int r = 0; r < repairs.size(); r++) {
+                Repair repair = repairs.get(r);
+                if (r > 0) {
+                    assertThat(repair.getStartDate()).isAfterOrEqualTo(repairs.get(r - 1).getStartDate());
+                }
+                if (!"COMPLETED".equals(repair.getStatus())) {
+                    // Solo la última reparación del vehículo, y solo si empezó al final del rango
+                    assertThat(r).isEqualTo(repairs.size() - 1);
+                    assertThat(repair.getStartDate()).isAfterOrEqualTo(windowStart);
+                    assertThat(repair.getEndDate()).isNull();
+                    assertThat(repair.getInvoice()).isNull();
+                }
+            }
+        });
+    }
+
+    @Test
+    void generateChunk_shouldClampLongRepairsToHorizon() {
+        // Given
+        LocalDateTime horizon = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+        WorkshopDataGenerator longRepairs = new WorkshopDataGenerator(42L, 5, 3, 4, 2022, 3, 24 * 20);
+
+        // When
+        WorkshopDataGenerator.Chunk chunk = longRepairs.generateChunk(0, 300, longRepairs.generateMechanics());
+
+        // Then
+        assertThat(chunk.invoices).extracting(Invoice::getIssueDate)
+                .allSatisfy(date -> assertThat(date).isBeforeOrEqualTo(horizon))
+                .contains(horizon);
+    }
+
+    @Test
+    void generateChunk_shouldRejectClientsBeyondPlateRange() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generateChunk(WorkshopDataGenerator.MAX_CLIENTS - 5, 10, mechanics));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateChunk(-1, 10, mechanics));
+        assertThat(generator.generateChunk(WorkshopDataGenerator.MAX_CLIENTS - 5, 5, mechanics).clients).hasSize(5);
+    }
+
+    @Test
+    void load_shouldSaveEachChunkInDependencyOrderInOneTransaction() {
+        // Given
+        when(mechanicRepository.saveAll(anyList())).thenAnswer(i -> i.getArguments()[0]);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        generator.load(25, 10, transactionTemplate, mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository);
+
+        // Then
+        InOrder inOrder = inOrder(mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository);
+        inOrder.verify(mechanicRepository).saveAll(anyList());
+        for (int chunk = 0; chunk < 3; chunk++) {
+            inOrder.verify(clientRepository).saveAll(anyList());
+            inOrder.verify(vehicleRepository).saveAll(anyList());
+            inOrder.verify(repairRepository).saveAll(anyList());
+            inOrder.verify(invoiceRepository).saveAll(anyList());
+            inOrder.verify(invoiceItemRepository).saveAll(anyList());
+        }
+        verify(transactionManager, times(4)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void load_shouldRollBackWholeChunkWhenAWriteFails() {
+        // Given
+        when(mechanicRepository.saveAll(anyList())).thenAnswer(i -> i.getArguments()[0]);
+        when(vehicleRepository.saveAll(anyList())).thenThrow(new IllegalStateException("DB down"));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> generator.load(10, 10, transactionTemplate,
+                mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(repairRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void load_shouldRejectInvalidSizes() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> generator.load(10, 0, transactionTemplate,
+                mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository));
+        assertThrows(IllegalArgumentException.class, () -> generator.load(-1, 10, transactionTemplate,
+                mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository));
+        assertThrows(IllegalArgumentException.class, () -> generator.load(WorkshopDataGenerator.MAX_CLIENTS + 1, 10,
+                transactionTemplate, mechanicRepository, clientRepository, vehicleRepository,
+                repairRepository, invoiceRepository, invoiceItemRepository));
+        verify(mechanicRepository, never()).saveAll(anyList());
+    }
+
+    private static List<String> fingerprint(WorkshopDataGenerator.Chunk chunk) {
+        List<String> rows = new ArrayList<>();
+        chunk.clients.forEach(c -> rows.add(c.getName() + "|" + c.getEmail()));
+        chunk.vehicles.forEach(v -> rows.add(v.getLicensePlate() + "|" + v.getBrand() + "|" + v.getModel() + "|" + v.getYear()));
+        chunk.repairs.forEach(r -> rows.add(r.getDescription() + "|" + r.getLaborCost() + "|" + r.getStatus()
+                + "|" + r.getMechanic().getName()));
+        chunk.invoices.forEach(i -> rows.add(i.getInvoiceNumber() + "|" + i.getIssueDate() + "|" + i.getTotalAmount()
+                + "|" + i.getMechanic().getName()));
+        chunk.invoiceItems.forEach(item -> rows.add(item.getInvoice().getInvoiceNumber() + "|" + item.getDescription()
+                + "|" + item.getUnitPrice() + "|" + item.getQuantity() + "|" + item.getSubtotal()));
+        return rows;
+    }
+}